@@ -3,11 +3,17 @@ package parameter_service_demo;
 import org.h2.tools.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import java.sql.SQLException;
 
-@SpringBootApplication
+/**
+ * R2DBC is used for reads only, so its transaction manager is excluded:
+ * it would compete with the JDBC one behind {@code @Transactional}.
+ */
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class ParameterServiceDemoApplication {
 
     public static void main(String[] args) {
@@ -18,6 +24,7 @@ public class ParameterServiceDemoApplication {
      * Start H2 TCP server so we can connect to in-memory database from outside the current JVM.
      */
     @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "parameter-service.h2-tcp-server", name = "enabled", havingValue = "true", matchIfMissing = true)
     public Server h2Server() throws SQLException {
         return Server.createTcpServer("-tcpPort", "9090", "-tcpAllowOthers");
     }
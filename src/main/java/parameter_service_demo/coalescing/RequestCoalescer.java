@@ -0,0 +1,180 @@
+package parameter_service_demo.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key: while a load is in flight, other callers asking for the key
+ * wait for its result instead of loading it again. Results are not kept after the load completes.
+ * <p>
+ * A caller that waits longer than the wait timeout loads the key by itself.
+ * <p>
+ * After the value of a key changes, {@link #forget} it, so later callers do not join a load that may have
+ * read the old value.
+ *
+ * @param <K> key type
+ * @param <V> value type, {@code null} stands for a missing value
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+
+    private final Duration waitTimeout;
+
+    private final Counter loadedKeys;
+
+    private final Counter coalescedKeys;
+
+    public RequestCoalescer(boolean enabled, Duration waitTimeout, Counter loadedKeys, Counter coalescedKeys) {
+        this.enabled = enabled;
+        this.waitTimeout = waitTimeout;
+        this.loadedKeys = loadedKeys;
+        this.coalescedKeys = coalescedKeys;
+    }
+
+    /**
+     * @param loader loads the value of the key, returns {@code null} if it is missing
+     * @return value of the key or {@code null} if it is missing
+     */
+    public V load(K key, Supplier<V> loader) {
+        if (!enabled) {
+            loadedKeys.increment();
+            return loader.get();
+        }
+
+        var future = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                var value = await(existing, System.nanoTime() + waitTimeout.toNanos());
+                coalescedKeys.increment();
+                return value;
+            } catch (TimeoutException e) {
+                loadedKeys.increment();
+                return loader.get();
+            }
+        }
+
+        loadedKeys.increment();
+        try {
+            var value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Loads several keys at once. Keys already in flight are awaited, the rest are passed to the loader in one call.
+     *
+     * @param loader loads values of the given keys, missing keys are left out of the returned map
+     * @return found values in the order of the keys
+     */
+    public Map<K, V> loadAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        if (!enabled) {
+            loadedKeys.increment(keys.size());
+            return loader.apply(keys);
+        }
+
+        var owned = new LinkedHashMap<K, CompletableFuture<V>>();
+        var joined = new LinkedHashMap<K, CompletableFuture<V>>();
+        for (var key : keys) {
+            if (owned.containsKey(key) || joined.containsKey(key)) {
+                continue;
+            }
+            var future = new CompletableFuture<V>();
+            var existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                owned.put(key, future);
+            } else {
+                joined.put(key, existing);
+            }
+        }
+
+        var values = new HashMap<K, V>();
+        if (!owned.isEmpty()) {
+            loadedKeys.increment(owned.size());
+            try {
+                values.putAll(loader.apply(owned.keySet()));
+                owned.forEach((key, future) -> future.complete(values.get(key)));
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+
+        var timedOut = new ArrayList<K>();
+        var deadline = System.nanoTime() + waitTimeout.toNanos();
+        for (var entry : joined.entrySet()) {
+            try {
+                values.put(entry.getKey(), await(entry.getValue(), deadline));
+                coalescedKeys.increment();
+            } catch (TimeoutException e) {
+                timedOut.add(entry.getKey());
+            }
+        }
+        if (!timedOut.isEmpty()) {
+            loadedKeys.increment(timedOut.size());
+            values.putAll(loader.apply(timedOut));
+        }
+
+        return orderedValues(keys, values);
+    }
+
+    /**
+     * Makes callers that come after it load the key by themselves instead of joining the load in flight.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * @param deadline {@link System#nanoTime()} to wait until
+     */
+    private V await(CompletableFuture<V> future, long deadline) throws TimeoutException {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced load", e);
+        }
+    }
+
+    private Map<K, V> orderedValues(Collection<K> keys, Map<K, V> values) {
+        var orderedValues = new LinkedHashMap<K, V>();
+        for (var key : keys) {
+            var value = values.get(key);
+            if (value != null) {
+                orderedValues.put(key, value);
+            }
+        }
+        return orderedValues;
+    }
+}
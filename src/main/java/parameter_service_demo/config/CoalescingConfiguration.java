@@ -0,0 +1,35 @@
+package parameter_service_demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import parameter_service_demo.coalescing.RequestCoalescer;
+import parameter_service_demo.dto.ParameterDto;
+
+/**
+ * Coalescing of parameter reads. The {@code parameter.reads} counter shows how many parameters were
+ * loaded from the database ({@code result=loaded}) and how many were taken from a query
+ * of a concurrent read ({@code result=coalesced}).
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfiguration {
+
+    @Bean
+    public RequestCoalescer<Long, ParameterDto> parameterCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new RequestCoalescer<>(
+                properties.isEnabled(),
+                properties.getWaitTimeout(),
+                Counter.builder("parameter.reads")
+                        .description("Parameters read by ID")
+                        .tag("result", "loaded")
+                        .register(meterRegistry),
+                Counter.builder("parameter.reads")
+                        .description("Parameters read by ID")
+                        .tag("result", "coalesced")
+                        .register(meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package parameter_service_demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("parameter-service.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * Whether concurrent reads of the same parameter share one database query.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a read waits for a query started by another one before querying the database by itself.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
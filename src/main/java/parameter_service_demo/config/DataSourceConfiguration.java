@@ -0,0 +1,81 @@
+package parameter_service_demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Separate connection pools for writes and for {@code @Transactional(readOnly = true)} reads.
+ * Pool metrics of both are exported by Actuator under {@code hikaricp.connections.*}, tagged with the pool name.
+ * <p>
+ * The R2DBC connection factory of the reactive read path makes Boot's {@code DataSourceAutoConfiguration} back off,
+ * so the JDBC data sources and {@link DataSourceProperties} are always defined here explicitly.
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ParameterDataSourceProperties.class})
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(
+            DataSourceProperties dataSourceProperties,
+            ParameterDataSourceProperties parameterDataSourceProperties
+    ) {
+        return buildDataSource(dataSourceProperties, parameterDataSourceProperties);
+    }
+
+    @Bean
+    @ConfigurationProperties("parameter-service.datasource.read.hikari")
+    @ConditionalOnProperty(prefix = "parameter-service.datasource.read", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HikariDataSource readDataSource(
+            DataSourceProperties dataSourceProperties,
+            ParameterDataSourceProperties parameterDataSourceProperties
+    ) {
+        var dataSource = buildDataSource(dataSourceProperties, parameterDataSourceProperties);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * The connection is obtained lazily, after the transaction is started and marked as read-only or not,
+     * so the proxy knows which pool to take it from.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource
+    ) {
+        var dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        readDataSource.ifAvailable(dataSource::setReadOnlyDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Appends the statement cache size to an H2 URL, unless the URL sets it explicitly.
+     * URLs of other databases are used as is.
+     */
+    private HikariDataSource buildDataSource(
+            DataSourceProperties dataSourceProperties,
+            ParameterDataSourceProperties parameterDataSourceProperties
+    ) {
+        var url = dataSourceProperties.determineUrl();
+        if (url.startsWith("jdbc:h2:") && !url.toUpperCase().contains("QUERY_CACHE_SIZE")) {
+            url += ";QUERY_CACHE_SIZE=" + parameterDataSourceProperties.getStatementCacheSize();
+        }
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+    }
+}
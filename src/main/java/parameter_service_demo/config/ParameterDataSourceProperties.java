@@ -0,0 +1,33 @@
+package parameter_service_demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the JDBC data sources on top of the standard {@code spring.datasource.*} ones.
+ * The write pool is tuned with {@code spring.datasource.hikari.*}, the read pool with
+ * {@code parameter-service.datasource.read.hikari.*}.
+ */
+@Data
+@ConfigurationProperties("parameter-service.datasource")
+public class ParameterDataSourceProperties {
+
+    /**
+     * Number of prepared statements H2 keeps parsed per session (H2 QUERY_CACHE_SIZE setting).
+     * Appended to the JDBC URL of both pools, unless the URL already sets it.
+     * H2 only: ignored for URLs of other databases.
+     */
+    private int statementCacheSize = 64;
+
+    private Read read = new Read();
+
+    @Data
+    public static class Read {
+
+        /**
+         * Whether to route read-only transactions to a separate pool.
+         * Uses the {@code spring.datasource} URL and credentials unless overridden in the read pool settings.
+         */
+        private boolean enabled = true;
+    }
+}
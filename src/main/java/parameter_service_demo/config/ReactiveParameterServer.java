@@ -0,0 +1,26 @@
+package parameter_service_demo.config;
+
+import lombok.RequiredArgsConstructor;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server running next to the servlet container, so both read paths can be benchmarked side by side.
+ */
+@RequiredArgsConstructor
+public class ReactiveParameterServer {
+
+    private final HttpServer httpServer;
+
+    private DisposableServer disposableServer;
+
+    public void start() {
+        disposableServer = httpServer.bindNow();
+    }
+
+    public void stop() {
+        if (disposableServer != null) {
+            disposableServer.disposeNow();
+        }
+    }
+}
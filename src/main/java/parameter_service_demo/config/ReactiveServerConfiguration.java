@@ -0,0 +1,74 @@
+package parameter_service_demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import parameter_service_demo.controller.ParameterHandler;
+import parameter_service_demo.exception.EntityNotFoundException;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Reactive read path. The application itself stays a servlet one, so WebFlux is not auto-configured
+ * and its routes are served by a dedicated {@link ReactiveParameterServer}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveServerProperties.class)
+public class ReactiveServerConfiguration {
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Use the same JSON settings as the servlet server, so both read paths return identical bodies.
+     */
+    @Bean
+    public HandlerStrategies parameterHandlerStrategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper, APPLICATION_JSON));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper, APPLICATION_JSON));
+                })
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> parameterRouter(ParameterHandler parameterHandler) {
+        return RouterFunctions.route()
+                .GET("/parameter/{id}", parameterHandler::getParameterById)
+                .GET("/parameter", parameterHandler::getParameters)
+                .onError(EntityNotFoundException.class, parameterHandler::handleEntityNotFoundException)
+                .onError(NumberFormatException.class, parameterHandler::handleBadRequestException)
+                .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "parameter-service.reactive", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ReactiveParameterServer reactiveParameterServer(
+            RouterFunction<ServerResponse> parameterRouter,
+            HandlerStrategies parameterHandlerStrategies,
+            ReactiveServerProperties properties
+    ) {
+        var httpHandler = RouterFunctions.toHttpHandler(parameterRouter, parameterHandlerStrategies);
+        return new ReactiveParameterServer(
+                HttpServer.create()
+                        .host(properties.getHost())
+                        .port(properties.getPort())
+                        .handle(new ReactorHttpHandlerAdapter(httpHandler))
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package parameter_service_demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("parameter-service.reactive")
+public class ReactiveServerProperties {
+
+    /**
+     * Whether to start the reactive server next to the servlet one.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Address the reactive server binds to.
+     */
+    private String host = "0.0.0.0";
+
+    /**
+     * Port the reactive server listens on. Must differ from the servlet server port.
+     */
+    private int port = 8081;
+}
@@ -0,0 +1,8 @@
+package parameter_service_demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TransferProperties.class)
+public class TransferConfiguration {}
@@ -0,0 +1,19 @@
+package parameter_service_demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("parameter-service.transfer")
+public class TransferProperties {
+
+    /**
+     * Number of imported parameters committed in one transaction.
+     */
+    private int importBatchSize = 1000;
+
+    /**
+     * Number of rows fetched from the database cursor at once on export.
+     */
+    private int exportFetchSize = 1000;
+}
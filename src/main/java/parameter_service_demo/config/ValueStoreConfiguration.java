@@ -0,0 +1,49 @@
+package parameter_service_demo.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import parameter_service_demo.store.OffHeapValueStore;
+
+/**
+ * Off-heap value store. Its usage is exported as {@code parameter.value-store.*} metrics,
+ * heap and direct memory usage of the JVM as the standard {@code jvm.memory.*} and {@code jvm.buffer.*} ones.
+ */
+@Configuration
+@EnableConfigurationProperties(ValueStoreProperties.class)
+@ConditionalOnProperty(prefix = "parameter-service.value-store", name = "enabled", havingValue = "true")
+public class ValueStoreConfiguration {
+
+    @Bean
+    public OffHeapValueStore offHeapValueStore(ValueStoreProperties properties) {
+        return new OffHeapValueStore(
+                Math.toIntExact(properties.getSlabSize().toBytes()),
+                properties.getMaxSize().toBytes(),
+                properties.getCompactionThreshold()
+        );
+    }
+
+    @Bean
+    public MeterBinder offHeapValueStoreMetrics(OffHeapValueStore offHeapValueStore) {
+        return registry -> {
+            Gauge.builder("parameter.value-store.entries", offHeapValueStore, OffHeapValueStore::getEntryCount)
+                    .description("Number of values in the off-heap store")
+                    .register(registry);
+            Gauge.builder("parameter.value-store.allocated", offHeapValueStore, OffHeapValueStore::getAllocatedBytes)
+                    .description("Off-heap memory allocated by the store")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("parameter.value-store.used", offHeapValueStore, OffHeapValueStore::getUsedBytes)
+                    .description("Off-heap memory taken by live values")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("parameter.value-store.rejected", offHeapValueStore, OffHeapValueStore::getRejectedCount)
+                    .description("Values not stored for the lack of off-heap memory")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package parameter_service_demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties("parameter-service.value-store")
+public class ValueStoreProperties {
+
+    /**
+     * Whether to keep parameter values in the off-heap store.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Size of a single off-heap slab. Larger values get a dedicated buffer.
+     */
+    private DataSize slabSize = DataSize.ofMegabytes(1);
+
+    /**
+     * Maximum off-heap memory allocated by the store. Values that do not fit are read from the database.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * Share of garbage in the slabs, after which live values are compacted into new slabs.
+     */
+    private double compactionThreshold = 0.5;
+}
@@ -1,6 +1,7 @@
 package parameter_service_demo.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import parameter_service_demo.dto.ErrorDto;
 import parameter_service_demo.dto.ValidationErrorDto;
 import parameter_service_demo.exception.EntityNotFoundException;
+import parameter_service_demo.exception.InvalidImportException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,7 +29,16 @@ public class ExceptionHandlingAdvice {
         return buildErrorResponse(HttpStatus.NOT_FOUND, request.getRequestURI(), e.getMessage());
     }
 
-    @ExceptionHandler({HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class})
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorDto> handleDuplicateKeyException(DuplicateKeyException e, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.CONFLICT, request.getRequestURI(), "Several parameters have the same name");
+    }
+
+    @ExceptionHandler({
+            HttpMessageNotReadableException.class,
+            MethodArgumentTypeMismatchException.class,
+            InvalidImportException.class
+    })
     public ResponseEntity<ErrorDto> handleBadRequestException(Exception e, HttpServletRequest request) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, request.getRequestURI(), e.getMessage());
     }
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,16 +16,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 import parameter_service_demo.dto.ErrorDto;
+import parameter_service_demo.dto.ImportMode;
+import parameter_service_demo.dto.ImportResultDto;
 import parameter_service_demo.dto.NewParameterDto;
 import parameter_service_demo.dto.ParameterDto;
 import parameter_service_demo.dto.ValidationErrorDto;
 import parameter_service_demo.service.ParameterService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
 
 @RestController
 @RequestMapping("parameter")
@@ -52,6 +66,35 @@ public class ParameterController {
                 .body(parameter);
     }
 
+    @PostMapping(value = "import", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Imports parameters from a stream of JSON objects with name and value, one per line.")
+    @ApiResponse(responseCode = "200", description = "All parameters imported.")
+    @ApiResponse(
+            responseCode = "400",
+            description = "Request contains an invalid record. Parameters before it may be already imported.",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class))
+    )
+    @ApiResponse(
+            responseCode = "409",
+            description = "In UPSERT mode, several existing parameters have the imported name. Batches before it stay imported.",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class))
+    )
+    public ImportResultDto importParameters(
+            @RequestParam(defaultValue = "INSERT") ImportMode mode,
+            InputStream inputStream
+    ) {
+        return parameterService.importParameters(inputStream, mode);
+    }
+
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exports all parameters as a stream of JSON objects, one per line.")
+    @ApiResponse(responseCode = "200", description = "All parameters.")
+    public ResponseEntity<StreamingResponseBody> exportParameters() {
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(parameterService::exportParameters);
+    }
+
     @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Finds a parameter with ID provided in the path.")
     @ApiResponse(responseCode = "200", description = "Parameter.")
@@ -69,6 +112,49 @@ public class ParameterController {
         return parameterService.loadById(id);
     }
 
+    /**
+     * Writes the value bytes straight to the response, without decoding them into a {@link String}.
+     */
+    @GetMapping("{id}/value")
+    @Operation(summary = "Returns the raw value of a parameter with ID provided in the path.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Parameter value.",
+            content = @Content(mediaType = TEXT_PLAIN_VALUE, schema = @Schema(implementation = String.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid id specified.",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Parameter with specified ID not found.",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class))
+    )
+    public void getParameterValueById(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        var value = parameterService.loadValueById(id);
+        response.setContentType(TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(UTF_8.name());
+        response.setContentLength(value.remaining());
+        var channel = Channels.newChannel(response.getOutputStream());
+        while (value.hasRemaining()) {
+            channel.write(value);
+        }
+    }
+
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Finds parameters with IDs provided in the query, or all parameters if no ID is provided.")
+    @ApiResponse(responseCode = "200", description = "Found parameters. Unknown IDs are skipped.")
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid id specified.",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class))
+    )
+    public List<ParameterDto> getParameters(@RequestParam(name = "id", required = false) List<Long> ids) {
+        return ids == null || ids.isEmpty() ? parameterService.loadAll() : parameterService.loadByIds(ids);
+    }
+
     @PutMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Updates a parameter with ID provided in the path.")
     @ApiResponse(responseCode = "200", description = "Updated parameter.")
@@ -0,0 +1,69 @@
+package parameter_service_demo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import parameter_service_demo.dto.ErrorDto;
+import parameter_service_demo.dto.ParameterDto;
+import parameter_service_demo.exception.EntityNotFoundException;
+import parameter_service_demo.service.ReactiveParameterService;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Functional WebFlux handlers of the reactive read path. Mirrors the read operations of {@link ParameterController}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParameterHandler {
+
+    private final ReactiveParameterService reactiveParameterService;
+
+    public Mono<ServerResponse> getParameterById(ServerRequest request) {
+        return Mono.fromCallable(() -> Long.valueOf(request.pathVariable("id")))
+                .flatMap(reactiveParameterService::loadById)
+                .flatMap(parameter -> ServerResponse.ok().contentType(APPLICATION_JSON).bodyValue(parameter));
+    }
+
+    public Mono<ServerResponse> getParameters(ServerRequest request) {
+        var ids = request.queryParams().getOrDefault("id", List.of());
+        return Mono.fromCallable(() -> ids.stream().map(Long::valueOf).toList())
+                .flatMap(parsedIds -> ServerResponse.ok()
+                        .contentType(APPLICATION_JSON)
+                        .body(
+                                parsedIds.isEmpty()
+                                        ? reactiveParameterService.loadAll()
+                                        : reactiveParameterService.loadByIds(parsedIds),
+                                ParameterDto.class
+                        )
+                );
+    }
+
+    public Mono<ServerResponse> handleEntityNotFoundException(EntityNotFoundException e, ServerRequest request) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, request.path(), e.getMessage());
+    }
+
+    public Mono<ServerResponse> handleBadRequestException(Throwable e, ServerRequest request) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, request.path(), e.getMessage());
+    }
+
+    private Mono<ServerResponse> buildErrorResponse(HttpStatus status, String path, String message) {
+        return ServerResponse.status(status)
+                .contentType(APPLICATION_JSON)
+                .bodyValue(
+                        ErrorDto.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(status.value())
+                                .error(status.getReasonPhrase())
+                                .path(path)
+                                .message(message)
+                                .build()
+                );
+    }
+}
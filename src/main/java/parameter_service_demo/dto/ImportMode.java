@@ -0,0 +1,13 @@
+package parameter_service_demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How imported parameters are applied.")
+public enum ImportMode {
+
+    @Schema(description = "Every imported parameter is created as a new one.")
+    INSERT,
+
+    @Schema(description = "A parameter with the same name is updated, otherwise a new one is created.")
+    UPSERT
+}
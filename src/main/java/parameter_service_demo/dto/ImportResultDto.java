@@ -0,0 +1,21 @@
+package parameter_service_demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A result of a parameter import.")
+public class ImportResultDto {
+
+    @Schema(description = "The number of imported parameters.")
+    private Long imported;
+
+    @Schema(description = "The number of committed batches.")
+    private Integer batches;
+}
@@ -0,0 +1,8 @@
+package parameter_service_demo.exception;
+
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(long record, long imported, String reason) {
+        super("Invalid record %d, %d parameters imported before it: %s".formatted(record, imported, reason));
+    }
+}
@@ -0,0 +1,85 @@
+package parameter_service_demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import parameter_service_demo.model.ParameterEntity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bulk operations on parameters that bypass the per-entity overhead of {@link ParameterRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParameterBatchRepository {
+
+    private static final String INSERT_PARAMETER = "insert into \"parameter\" (\"name\", \"value_\") values (?, ?)";
+
+    private static final String MERGE_PARAMETER_BY_NAME = "merge into \"parameter\" (\"name\", \"value_\") key (\"name\") values (?, ?)";
+
+    private static final String SELECT_ALL_PARAMETERS = "select \"id\", \"name\", \"value_\" from \"parameter\" order by \"id\"";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ParameterEntity> parameterEntities) {
+        executeBatch(INSERT_PARAMETER, parameterEntities);
+    }
+
+    /**
+     * Updates parameters with the same name or inserts new ones.
+     */
+    public void upsertAllByName(List<ParameterEntity> parameterEntities) {
+        executeBatch(MERGE_PARAMETER_BY_NAME, parameterEntities);
+    }
+
+    public List<Long> findIdsByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        var placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "select \"id\" from \"parameter\" where \"name\" in (" + placeholders + ")",
+                Long.class,
+                names.toArray()
+        );
+    }
+
+    /**
+     * Passes all parameters ordered by ID to the consumer, reading them with a database cursor
+     * instead of loading the whole result into memory.
+     */
+    public void streamAll(int fetchSize, Consumer<ParameterEntity> consumer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("set lazy_query_execution true");
+                try (var resultSet = statement.executeQuery(SELECT_ALL_PARAMETERS)) {
+                    resultSet.setFetchSize(fetchSize);
+                    while (resultSet.next()) {
+                        consumer.accept(
+                                ParameterEntity.builder()
+                                        .id(resultSet.getLong("id"))
+                                        .name(resultSet.getString("name"))
+                                        .value(resultSet.getString("value_"))
+                                        .build()
+                        );
+                    }
+                } finally {
+                    statement.execute("set lazy_query_execution false");
+                }
+            }
+            return null;
+        });
+    }
+
+    private void executeBatch(String sql, List<ParameterEntity> parameterEntities) {
+        jdbcTemplate.batchUpdate(sql, parameterEntities, parameterEntities.size(), (statement, parameterEntity) -> {
+            statement.setString(1, parameterEntity.getName());
+            statement.setString(2, parameterEntity.getValue());
+        });
+    }
+}
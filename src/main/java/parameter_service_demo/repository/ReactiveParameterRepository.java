@@ -0,0 +1,62 @@
+package parameter_service_demo.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import parameter_service_demo.model.ParameterEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+
+/**
+ * Read access to parameters through R2DBC.
+ * Shares the database with {@link ParameterRepository}, so both always see the same data.
+ * <p>
+ * r2dbc-h2 runs the embedded H2 engine synchronously on the subscribing thread, so queries are moved
+ * off the Reactor Netty event loop to the bounded elastic scheduler.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveParameterRepository {
+
+    private static final String SELECT_PARAMETER = "select \"id\", \"name\", \"value_\" from \"parameter\"";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<ParameterEntity> findById(Long id) {
+        return databaseClient.sql(SELECT_PARAMETER + " where \"id\" = :id")
+                .bind("id", id)
+                .map(this::readParameterEntity)
+                .one()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Flux<ParameterEntity> findAll() {
+        return databaseClient.sql(SELECT_PARAMETER)
+                .map(this::readParameterEntity)
+                .all()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Flux<ParameterEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT_PARAMETER + " where \"id\" in (:ids)")
+                .bind("ids", ids)
+                .map(this::readParameterEntity)
+                .all()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ParameterEntity readParameterEntity(Readable row) {
+        return ParameterEntity.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .value(row.get("value_", String.class))
+                .build();
+    }
+}
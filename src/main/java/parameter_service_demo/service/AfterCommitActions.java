@@ -0,0 +1,31 @@
+package parameter_service_demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Actions on in-memory state that must follow a database change only after it is committed.
+ */
+@Slf4j
+final class AfterCommitActions {
+
+    private AfterCommitActions() {}
+
+    /**
+     * Runs the action once the current transaction is committed. The changes are already visible to other
+     * transactions then, so a failure of the action is only logged and does not fail the request.
+     */
+    static void register(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to run an action after commit", e);
+                }
+            }
+        });
+    }
+}
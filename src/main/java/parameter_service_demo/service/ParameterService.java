@@ -1,13 +1,27 @@
 package parameter_service_demo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import parameter_service_demo.coalescing.RequestCoalescer;
+import parameter_service_demo.dto.ImportMode;
+import parameter_service_demo.dto.ImportResultDto;
 import parameter_service_demo.dto.NewParameterDto;
 import parameter_service_demo.dto.ParameterDto;
 import parameter_service_demo.exception.EntityNotFoundException;
 import parameter_service_demo.model.ParameterEntity;
 import parameter_service_demo.repository.ParameterRepository;
+import parameter_service_demo.store.OffHeapValueStore;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Service
 @RequiredArgsConstructor
@@ -15,15 +29,75 @@ public class ParameterService {
 
     private final ParameterRepository parameterRepository;
 
+    private final ObjectProvider<OffHeapValueStore> offHeapValueStore;
+
+    private final RequestCoalescer<Long, ParameterDto> parameterCoalescer;
+
+    private final ParameterTransferService parameterTransferService;
+
     @Transactional
     public ParameterDto save(NewParameterDto newParameterDto) {
-        return parameterEntityToDto(parameterRepository.save(newParameterDtoToEntity(newParameterDto)));
+        var parameterEntity = parameterRepository.save(newParameterDtoToEntity(newParameterDto));
+        storeValueAfterCommit(parameterEntity);
+        return parameterEntityToDto(parameterEntity);
     }
 
+    /**
+     * Concurrent calls for the same ID share one query and its result.
+     */
     @Transactional(readOnly = true)
     public ParameterDto loadById(Long id) {
-        var parameterEntity = parameterRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Parameter", id));
-        return parameterEntityToDto(parameterEntity);
+        var parameter = parameterCoalescer.load(id, () ->
+                parameterRepository.findById(id).map(this::parameterEntityToDto).orElse(null)
+        );
+        if (parameter == null) {
+            throw new EntityNotFoundException("Parameter", id);
+        }
+        return parameter;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParameterDto> loadAll() {
+        return parameterRepository.findAll().stream().map(this::parameterEntityToDto).toList();
+    }
+
+    /**
+     * IDs already being loaded by concurrent calls are not queried again.
+     */
+    @Transactional(readOnly = true)
+    public List<ParameterDto> loadByIds(List<Long> ids) {
+        var parameters = parameterCoalescer.loadAll(ids, missingIds ->
+                parameterRepository.findAllById(missingIds).stream()
+                        .map(this::parameterEntityToDto)
+                        .collect(Collectors.toMap(ParameterDto::getId, Function.identity()))
+        );
+        return List.copyOf(parameters.values());
+    }
+
+    /**
+     * @return UTF-8 bytes of the parameter value, served from the off-heap store when it is enabled
+     */
+    @Transactional(readOnly = true)
+    public ByteBuffer loadValueById(Long id) {
+        var valueStore = offHeapValueStore.getIfAvailable();
+        if (valueStore == null) {
+            return ByteBuffer.wrap(loadEntityById(id).getValue().getBytes(UTF_8));
+        }
+
+        var storedValue = valueStore.get(id);
+        if (storedValue != null) {
+            return storedValue;
+        }
+        var fillStamp = valueStore.beginFill(id);
+        byte[] value;
+        try {
+            value = loadEntityById(id).getValue().getBytes(UTF_8);
+        } catch (RuntimeException e) {
+            valueStore.cancelFill(id);
+            throw e;
+        }
+        valueStore.fill(id, value, fillStamp);
+        return ByteBuffer.wrap(value);
     }
 
     @Transactional
@@ -34,12 +108,40 @@ public class ParameterService {
 
         var parameterEntity = newParameterDtoToEntity(newParameterDto);
         parameterEntity.setId(id);
-        return parameterEntityToDto(parameterRepository.save(parameterEntity));
+        parameterEntity = parameterRepository.save(parameterEntity);
+        AfterCommitActions.register(() -> parameterCoalescer.forget(id));
+        storeValueAfterCommit(parameterEntity);
+        return parameterEntityToDto(parameterEntity);
     }
 
     @Transactional
     public void deleteById(Long id) {
         parameterRepository.deleteById(id);
+        AfterCommitActions.register(() -> parameterCoalescer.forget(id));
+        offHeapValueStore.ifAvailable(valueStore -> AfterCommitActions.register(() -> valueStore.remove(id)));
+    }
+
+    /**
+     * Imports a stream of parameters in batches, see {@link ParameterTransferService#importParameters}.
+     */
+    public ImportResultDto importParameters(InputStream inputStream, ImportMode mode) {
+        return parameterTransferService.importParameters(inputStream, mode);
+    }
+
+    public void exportParameters(OutputStream outputStream) {
+        parameterTransferService.exportParameters(outputStream);
+    }
+
+    private ParameterEntity loadEntityById(Long id) {
+        return parameterRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Parameter", id));
+    }
+
+    private void storeValueAfterCommit(ParameterEntity parameterEntity) {
+        offHeapValueStore.ifAvailable(valueStore -> {
+            var id = parameterEntity.getId();
+            var value = parameterEntity.getValue().getBytes(UTF_8);
+            AfterCommitActions.register(() -> valueStore.put(id, value));
+        });
     }
 
     private ParameterEntity newParameterDtoToEntity(NewParameterDto newParameterDto) {
@@ -0,0 +1,154 @@
+package parameter_service_demo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import parameter_service_demo.coalescing.RequestCoalescer;
+import parameter_service_demo.config.TransferProperties;
+import parameter_service_demo.dto.ImportMode;
+import parameter_service_demo.dto.ImportResultDto;
+import parameter_service_demo.dto.NewParameterDto;
+import parameter_service_demo.dto.ParameterDto;
+import parameter_service_demo.exception.InvalidImportException;
+import parameter_service_demo.model.ParameterEntity;
+import parameter_service_demo.repository.ParameterBatchRepository;
+import parameter_service_demo.store.OffHeapValueStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import and export of parameters as a stream of JSON objects, one per line. Used through {@link ParameterService}.
+ * Only one batch of parameters is held in memory at a time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParameterTransferService {
+
+    private final ParameterBatchRepository parameterBatchRepository;
+
+    private final ObjectProvider<OffHeapValueStore> offHeapValueStore;
+
+    private final RequestCoalescer<Long, ParameterDto> parameterCoalescer;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    private final TransferProperties transferProperties;
+
+    /**
+     * Imports parameters in batches, each one committed in its own transaction.
+     * If a record is invalid, the batches before it stay imported.
+     */
+    public ImportResultDto importParameters(InputStream inputStream, ImportMode mode) {
+        var batch = new ArrayList<ParameterEntity>(transferProperties.getImportBatchSize());
+        var imported = 0L;
+        var batches = 0;
+        try (MappingIterator<NewParameterDto> records = objectMapper.readerFor(NewParameterDto.class).readValues(inputStream)) {
+            NewParameterDto newParameterDto;
+            while ((newParameterDto = readNextRecord(records, imported + batch.size() + 1, imported)) != null) {
+                validate(newParameterDto, imported + batch.size() + 1, imported);
+                batch.add(
+                        ParameterEntity.builder()
+                                .name(newParameterDto.getName())
+                                .value(newParameterDto.getValue())
+                                .build()
+                );
+                if (batch.size() == transferProperties.getImportBatchSize()) {
+                    importBatch(batch, mode);
+                    imported += batch.size();
+                    batches++;
+                    batch.clear();
+                    log.info("Imported {} parameters in {} batches", imported, batches);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, mode);
+            imported += batch.size();
+            batches++;
+        }
+        log.info("Import finished: {} parameters in {} batches", imported, batches);
+        return ImportResultDto.builder()
+                .imported(imported)
+                .batches(batches)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportParameters(OutputStream outputStream) {
+        try (var writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+            parameterBatchRepository.streamAll(transferProperties.getExportFetchSize(), parameterEntity -> {
+                try {
+                    writer.write(
+                            ParameterDto.builder()
+                                    .id(parameterEntity.getId())
+                                    .name(parameterEntity.getName())
+                                    .value(parameterEntity.getValue())
+                                    .build()
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private NewParameterDto readNextRecord(MappingIterator<NewParameterDto> records, long record, long imported) throws IOException {
+        try {
+            return records.hasNextValue() ? records.nextValue() : null;
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException(record, imported, e.getOriginalMessage());
+        }
+    }
+
+    private void validate(NewParameterDto newParameterDto, long record, long imported) {
+        var violations = validator.validate(newParameterDto);
+        if (!violations.isEmpty()) {
+            throw new InvalidImportException(
+                    record,
+                    imported,
+                    violations.stream()
+                            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                            .collect(Collectors.joining(", "))
+            );
+        }
+    }
+
+    private void importBatch(List<ParameterEntity> batch, ImportMode mode) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (mode == ImportMode.UPSERT) {
+                var updatedIds = parameterBatchRepository.findIdsByNames(
+                        batch.stream().map(ParameterEntity::getName).toList()
+                );
+                parameterBatchRepository.upsertAllByName(batch);
+                AfterCommitActions.register(() -> updatedIds.forEach(parameterCoalescer::forget));
+                offHeapValueStore.ifAvailable(valueStore ->
+                        AfterCommitActions.register(() -> valueStore.removeAll(updatedIds))
+                );
+            } else {
+                parameterBatchRepository.insertAll(batch);
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package parameter_service_demo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import parameter_service_demo.dto.ParameterDto;
+import parameter_service_demo.exception.EntityNotFoundException;
+import parameter_service_demo.model.ParameterEntity;
+import parameter_service_demo.repository.ReactiveParameterRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Read-only counterpart of {@link ParameterService} for the reactive read path.
+ * Idle and slow clients do not hold a thread; see {@link ReactiveParameterRepository} for where the queries run.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveParameterService {
+
+    private final ReactiveParameterRepository reactiveParameterRepository;
+
+    public Mono<ParameterDto> loadById(Long id) {
+        return reactiveParameterRepository.findById(id)
+                .map(this::parameterEntityToDto)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Parameter", id)));
+    }
+
+    public Flux<ParameterDto> loadAll() {
+        return reactiveParameterRepository.findAll().map(this::parameterEntityToDto);
+    }
+
+    public Flux<ParameterDto> loadByIds(List<Long> ids) {
+        return reactiveParameterRepository.findAllById(ids).map(this::parameterEntityToDto);
+    }
+
+    private ParameterDto parameterEntityToDto(ParameterEntity parameterEntity) {
+        return ParameterDto.builder()
+                .id(parameterEntity.getId())
+                .name(parameterEntity.getName())
+                .value(parameterEntity.getValue())
+                .build();
+    }
+}
@@ -0,0 +1,332 @@
+package parameter_service_demo.store;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps parameter values as UTF-8 bytes in direct (off-heap) memory, indexed by parameter ID.
+ * <p>
+ * Values are appended to fixed-size slabs. Replaced and removed values leave garbage in their slabs,
+ * which is reclaimed by copying the live values into fresh slabs once the garbage exceeds the compaction threshold.
+ * Values larger than a slab get a dedicated buffer of their own.
+ * <p>
+ * Returned buffers are read-only views that stay valid after compaction: the old slab is released only
+ * when no view references it anymore.
+ * <p>
+ * The allocated memory is limited by the maximum size. A value that does not fit even after compaction
+ * is not stored, so reads of it fall back to the database.
+ * <p>
+ * Writers ({@link #put}, {@link #remove}, {@link #removeAll}, {@link #clear}) always win. Readers populate the store
+ * with {@link #beginFill} before reading the database and {@link #fill} after it, the value is skipped if the ID was written in between.
+ * Writes are only tracked for IDs with fills in progress.
+ * <p>
+ * Reads share a lock, so they only wait for writers and compaction, not for each other.
+ */
+public class OffHeapValueStore {
+
+    private final int slabSize;
+
+    private final long maxSize;
+
+    private final double compactionThreshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Slot> slots = new HashMap<>();
+
+    /**
+     * Fills in progress by ID, removed when the last of them ends.
+     */
+    private final Map<Long, PendingFills> pendingFills = new HashMap<>();
+
+    private ByteBuffer currentSlab;
+
+    private long allocatedBytes;
+
+    private long usedBytes;
+
+    private long garbageBytes;
+
+    private long dedicatedBytes;
+
+    private long writeCount;
+
+    private long lastClear;
+
+    private long rejectedCount;
+
+    public OffHeapValueStore(int slabSize, long maxSize, double compactionThreshold) {
+        this.slabSize = slabSize;
+        this.maxSize = maxSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * @return read-only view of the value bytes or {@code null} if the store has no value for the ID
+     */
+    public ByteBuffer get(Long id) {
+        lock.readLock().lock();
+        try {
+            var slot = slots.get(id);
+            return slot == null ? null : slot.slab().slice(slot.offset(), slot.length()).asReadOnlyBuffer();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a value written to the database.
+     *
+     * @return {@code false} if the value did not fit, the store has no value for the ID then
+     */
+    public boolean put(Long id, byte[] value) {
+        lock.writeLock().lock();
+        try {
+            recordWrite(id);
+            release(slots.remove(id));
+            return store(id, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a fill of the ID, to be ended with {@link #fill} or {@link #cancelFill}.
+     *
+     * @return stamp to be passed to {@link #fill}
+     */
+    public long beginFill(Long id) {
+        lock.writeLock().lock();
+        try {
+            pendingFills.computeIfAbsent(id, key -> new PendingFills()).count++;
+            return writeCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends a fill and stores the value read from the database, unless the store already has a value for the ID
+     * or the ID was written after the fill began.
+     *
+     * @return {@code true} if the value was stored
+     */
+    public boolean fill(Long id, byte[] value, long stamp) {
+        lock.writeLock().lock();
+        try {
+            var fills = endFill(id);
+            if (fills == null || fills.lastWrite > stamp || lastClear > stamp || slots.containsKey(id)) {
+                return false;
+            }
+            return store(id, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends a fill that has no value, for example because the read failed.
+     */
+    public void cancelFill(Long id) {
+        lock.writeLock().lock();
+        try {
+            endFill(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (var id : ids) {
+                recordWrite(id);
+                release(slots.remove(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            writeCount++;
+            lastClear = writeCount;
+            slots.clear();
+            currentSlab = null;
+            allocatedBytes = 0;
+            usedBytes = 0;
+            garbageBytes = 0;
+            dedicatedBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getEntryCount() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return total size of the allocated off-heap memory
+     */
+    public long getAllocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return allocatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return size of the live values
+     */
+    public long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of values not stored for the lack of memory
+     */
+    public long getRejectedCount() {
+        lock.readLock().lock();
+        try {
+            return rejectedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void recordWrite(Long id) {
+        writeCount++;
+        var fills = pendingFills.get(id);
+        if (fills != null) {
+            fills.lastWrite = writeCount;
+        }
+    }
+
+    private PendingFills endFill(Long id) {
+        var fills = pendingFills.get(id);
+        if (fills != null && --fills.count == 0) {
+            pendingFills.remove(id);
+        }
+        return fills;
+    }
+
+    private boolean store(Long id, byte[] value) {
+        if (!hasCapacity(value.length) && garbageBytes > 0) {
+            compact();
+        }
+        if (!hasCapacity(value.length)) {
+            rejectedCount++;
+            return false;
+        }
+        try {
+            slots.put(id, allocate(ByteBuffer.wrap(value)));
+        } catch (OutOfMemoryError e) {
+            // Direct memory of the JVM is exhausted, the store is only a copy of the database.
+            rejectedCount++;
+            return false;
+        }
+        if (isCompactionNeeded()) {
+            compact();
+        }
+        return true;
+    }
+
+    private boolean hasCapacity(int length) {
+        if (length > slabSize) {
+            return allocatedBytes + length <= maxSize;
+        }
+        return currentSlab != null && currentSlab.remaining() >= length || allocatedBytes + slabSize <= maxSize;
+    }
+
+    private Slot allocate(ByteBuffer value) {
+        var length = value.remaining();
+        if (length > slabSize) {
+            var buffer = ByteBuffer.allocateDirect(length).put(value);
+            allocatedBytes += length;
+            dedicatedBytes += length;
+            usedBytes += length;
+            return new Slot(buffer, 0, length, true);
+        }
+        if (currentSlab == null || currentSlab.remaining() < length) {
+            var slab = ByteBuffer.allocateDirect(slabSize);
+            if (currentSlab != null) {
+                garbageBytes += currentSlab.remaining();
+            }
+            currentSlab = slab;
+            allocatedBytes += slabSize;
+        }
+        var offset = currentSlab.position();
+        currentSlab.put(value);
+        usedBytes += length;
+        return new Slot(currentSlab, offset, length, false);
+    }
+
+    private void release(Slot slot) {
+        if (slot == null) {
+            return;
+        }
+        usedBytes -= slot.length();
+        if (slot.dedicated()) {
+            allocatedBytes -= slot.length();
+            dedicatedBytes -= slot.length();
+        } else {
+            garbageBytes += slot.length();
+        }
+    }
+
+    private boolean isCompactionNeeded() {
+        var slabBytes = allocatedBytes - dedicatedBytes;
+        return slabBytes > slabSize && garbageBytes > slabBytes * compactionThreshold;
+    }
+
+    private void compact() {
+        currentSlab = null;
+        allocatedBytes = dedicatedBytes;
+        usedBytes = dedicatedBytes;
+        garbageBytes = 0;
+        try {
+            for (var entry : slots.entrySet()) {
+                var slot = entry.getValue();
+                if (!slot.dedicated()) {
+                    entry.setValue(allocate(slot.slab().slice(slot.offset(), slot.length())));
+                }
+            }
+        } catch (OutOfMemoryError e) {
+            // Part of the slots already point to the new slabs, so the accounting is only consistent after a reset.
+            clear();
+        }
+    }
+
+    private record Slot(ByteBuffer slab, int offset, int length, boolean dedicated) {}
+
+    private static class PendingFills {
+
+        private int count;
+
+        private long lastWrite;
+    }
+}
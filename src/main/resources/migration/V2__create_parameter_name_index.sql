@@ -0,0 +1,3 @@
+alter table "parameter" alter column "name" set data type varchar;
+
+create index "parameter_name_idx" on "parameter" ("name");
@@ -0,0 +1,77 @@
+package parameter_service_demo;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourceRoutingTest {
+
+    private static final String COUNT_PARAMETERS = "select count(*) from \"parameter\"";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private HikariDataSource writeDataSource;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource readDataSource;
+
+    @Test
+    void shouldUseReadPoolInReadOnlyTransaction() {
+        // given
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // when
+        var activeConnections = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject(COUNT_PARAMETERS, Long.class);
+            return readDataSource.getHikariPoolMXBean().getActiveConnections();
+        });
+
+        // then
+        assertThat(activeConnections).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseWritePoolInReadWriteTransaction() {
+        // given
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        var activeConnections = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject(COUNT_PARAMETERS, Long.class);
+            return writeDataSource.getHikariPoolMXBean().getActiveConnections();
+        });
+
+        // then
+        assertThat(activeConnections).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyStatementCacheSize() {
+        // when
+        var queryCacheSize = jdbcTemplate.queryForObject(
+                "select \"SETTING_VALUE\" from \"INFORMATION_SCHEMA\".\"SETTINGS\" where \"SETTING_NAME\" = 'QUERY_CACHE_SIZE'",
+                String.class
+        );
+
+        // then
+        assertThat(queryCacheSize).isEqualTo("32");
+    }
+}
@@ -0,0 +1,221 @@
+package parameter_service_demo;
+
+import org.junit.jupiter.api.Test;
+import parameter_service_demo.store.OffHeapValueStore;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapValueStoreTest {
+
+    private static final int SLAB_SIZE = 64;
+
+    private static final long MAX_SIZE = SLAB_SIZE * 4;
+
+    @Test
+    void shouldGetStoredValue() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+
+        // when
+        store.put(1L, bytes("first"));
+        store.put(2L, bytes("second"));
+
+        // then
+        assertThat(string(store.get(1L))).isEqualTo("first");
+        assertThat(string(store.get(2L))).isEqualTo("second");
+        assertThat(store.get(3L)).isNull();
+        assertThat(store.getUsedBytes()).isEqualTo(11);
+        assertThat(store.getAllocatedBytes()).isEqualTo(SLAB_SIZE);
+    }
+
+    @Test
+    void shouldReplaceAndRemoveValue() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        store.put(1L, bytes("first"));
+        store.put(2L, bytes("second"));
+
+        // when
+        store.put(1L, bytes("replaced"));
+        store.remove(2L);
+
+        // then
+        assertThat(string(store.get(1L))).isEqualTo("replaced");
+        assertThat(store.get(2L)).isNull();
+        assertThat(store.getEntryCount()).isEqualTo(1);
+        assertThat(store.getUsedBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldStoreValueLargerThanSlab() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        var value = "x".repeat(SLAB_SIZE * 2);
+
+        // when
+        store.put(1L, bytes(value));
+
+        // then
+        assertThat(string(store.get(1L))).isEqualTo(value);
+        assertThat(store.getAllocatedBytes()).isEqualTo(SLAB_SIZE * 2);
+
+        // when
+        store.remove(1L);
+
+        // then
+        assertThat(store.getAllocatedBytes()).isZero();
+    }
+
+    @Test
+    void shouldCompactSlabs() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        store.put(1L, bytes("kept"));
+        var keptView = store.get(1L);
+
+        // when
+        for (var i = 0; i < 100; i++) {
+            store.put(2L, bytes("overwritten value " + i));
+        }
+
+        // then
+        assertThat(string(store.get(1L))).isEqualTo("kept");
+        assertThat(string(keptView)).isEqualTo("kept");
+        assertThat(string(store.get(2L))).isEqualTo("overwritten value 99");
+        assertThat(store.getAllocatedBytes()).isLessThanOrEqualTo(SLAB_SIZE * 2);
+    }
+
+    @Test
+    void shouldNotFillValueWrittenConcurrently() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        var stamp = store.beginFill(1L);
+        store.put(1L, bytes("new"));
+
+        // when
+        var filled = store.fill(1L, bytes("stale"), stamp);
+
+        // then
+        assertThat(filled).isFalse();
+        assertThat(string(store.get(1L))).isEqualTo("new");
+    }
+
+    @Test
+    void shouldNotFillValueRemovedConcurrently() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        var stamp = store.beginFill(1L);
+        store.remove(1L);
+
+        // when
+        var filled = store.fill(1L, bytes("stale"), stamp);
+
+        // then
+        assertThat(filled).isFalse();
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void shouldFillValuesConcurrentlyWithWritesOfOtherIds() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        var firstStamp = store.beginFill(1L);
+        var secondStamp = store.beginFill(2L);
+        store.fill(2L, bytes("second"), secondStamp);
+        store.put(3L, bytes("third"));
+
+        // when
+        var filled = store.fill(1L, bytes("first"), firstStamp);
+
+        // then
+        assertThat(filled).isTrue();
+        assertThat(string(store.get(1L))).isEqualTo("first");
+        assertThat(string(store.get(2L))).isEqualTo("second");
+    }
+
+    @Test
+    void shouldFillValueAfterEarlierFillWasCancelled() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        store.beginFill(1L);
+        store.put(1L, bytes("written"));
+        store.remove(1L);
+        store.cancelFill(1L);
+
+        // when
+        var stamp = store.beginFill(1L);
+        var filled = store.fill(1L, bytes("read"), stamp);
+
+        // then
+        assertThat(filled).isTrue();
+        assertThat(string(store.get(1L))).isEqualTo("read");
+    }
+
+    @Test
+    void shouldNotFillValueClearedConcurrently() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        var stamp = store.beginFill(1L);
+        store.clear();
+
+        // when
+        var filled = store.fill(1L, bytes("stale"), stamp);
+
+        // then
+        assertThat(filled).isFalse();
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void shouldNotFillWithoutBeginning() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+
+        // when
+        var filled = store.fill(1L, bytes("value"), 0);
+
+        // then
+        assertThat(filled).isFalse();
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void shouldRejectValuesOverMaxSize() {
+        // given
+        var store = new OffHeapValueStore(SLAB_SIZE, MAX_SIZE, 0.5);
+        for (var id = 1L; id <= 4; id++) {
+            store.put(id, bytes("x".repeat(SLAB_SIZE)));
+        }
+
+        // when
+        var stored = store.put(5L, bytes("y"));
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(store.get(5L)).isNull();
+        assertThat(store.getRejectedCount()).isEqualTo(1);
+        assertThat(store.getAllocatedBytes()).isEqualTo(MAX_SIZE);
+
+        // when
+        store.remove(1L);
+        stored = store.put(5L, bytes("y"));
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(string(store.get(5L))).isEqualTo("y");
+        assertThat(store.getAllocatedBytes()).isLessThanOrEqualTo(MAX_SIZE);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
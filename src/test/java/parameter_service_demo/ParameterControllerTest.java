@@ -7,18 +7,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import parameter_service_demo.model.ParameterEntity;
 import parameter_service_demo.repository.ParameterRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -32,6 +35,9 @@ class ParameterControllerTest {
     @Autowired
     private ParameterRepository parameterRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldCreateParameter() throws Exception {
         // given
@@ -163,6 +169,120 @@ class ParameterControllerTest {
                 .andExpect(jsonPath("$.message").isNotEmpty());
     }
 
+    @Test
+    void shouldGetParameterValue() throws Exception {
+        // given
+        var parameter = ParameterEntity.builder()
+                .name("value_parameter")
+                .value("значение")
+                .build();
+        var id = parameterRepository.save(parameter).getId();
+
+        // when
+        var result = mockMvc.perform(get("/parameter/{id}/value", id));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andExpect(content().string("значение"));
+    }
+
+    @Test
+    void shouldGetUpdatedParameterValue() throws Exception {
+        // given
+        var parameter = ParameterEntity.builder()
+                .name("updated_value_parameter")
+                .value("original")
+                .build();
+        var id = parameterRepository.save(parameter).getId();
+        mockMvc.perform(get("/parameter/{id}/value", id)).andExpect(content().string("original"));
+        // language=JSON
+        var parameterUpdate = """
+                {
+                  "name": "updated_value_parameter",
+                  "value": "updated"
+                }\
+                """;
+        mockMvc.perform(
+                put("/parameter/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(parameterUpdate)
+        );
+
+        // when
+        var result = mockMvc.perform(get("/parameter/{id}/value", id));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().string("updated"));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenParameterNotFoundOnGetParameterValue() throws Exception {
+        // given
+        var id = Long.MAX_VALUE;
+
+        // when
+        var result = mockMvc.perform(get("/parameter/{id}/value", id));
+
+        // then
+        result
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()))
+                .andExpect(jsonPath("$.path").value("/parameter/" + id + "/value"))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void shouldGetParametersByIds() throws Exception {
+        // given
+        var first = parameterRepository.save(ParameterEntity.builder().name("first_parameter").value("1").build()).getId();
+        var second = parameterRepository.save(ParameterEntity.builder().name("second_parameter").value("2").build()).getId();
+
+        // when
+        var result = mockMvc.perform(get("/parameter").param("id", first.toString(), second.toString(), String.valueOf(Long.MAX_VALUE)));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.id == %d)].name", first).value("first_parameter"))
+                .andExpect(jsonPath("$[?(@.id == %d)].name", second).value("second_parameter"));
+    }
+
+    @Test
+    void shouldGetAllParameters() throws Exception {
+        // given
+        var id = parameterRepository.save(ParameterEntity.builder().name("listed_parameter").value("1").build()).getId();
+
+        // when
+        var result = mockMvc.perform(get("/parameter"));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[?(@.id == %d)].name", id).value("listed_parameter"));
+    }
+
+    @Test
+    void shouldReturnBadRequestOnGetParametersWithInvalidId() throws Exception {
+        // when
+        var result = mockMvc.perform(get("/parameter").param("id", "abc"));
+
+        // then
+        result
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.path").value("/parameter"))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
     @Test
     void shouldUpdateParameter() throws Exception {
         // given
@@ -334,4 +454,178 @@ class ParameterControllerTest {
                 .andExpect(jsonPath("$.path").value("/parameter/abc"))
                 .andExpect(jsonPath("$.message").isNotEmpty());
     }
+
+    @Test
+    void shouldImportParameters() throws Exception {
+        // given
+        var parameters = """
+                {"name": "imported_parameter_1", "value": "1"}
+                {"name": "imported_parameter_2", "value": "2"}
+                {"name": "imported_parameter_3", "value": "3"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.batches").value(2));
+        assertThat(countParametersWithName("imported_parameter_2")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUpsertParametersByNameOnImport() throws Exception {
+        // given
+        parameterRepository.save(ParameterEntity.builder().name("upserted_parameter").value("1").build());
+        var parameters = """
+                {"name": "upserted_parameter", "value": "2"}
+                {"name": "upserted_new_parameter", "value": "3"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .param("mode", "UPSERT")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+        assertThat(countParametersWithName("upserted_parameter")).isEqualTo(1);
+        assertThat(countParametersWithName("upserted_new_parameter")).isEqualTo(1);
+        assertThat(
+                jdbcTemplate.queryForObject(
+                        "select \"value_\" from \"parameter\" where \"name\" = ?",
+                        String.class,
+                        "upserted_parameter"
+                )
+        ).isEqualTo("2");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenRecordMissingRequiredFieldOnImport() throws Exception {
+        // given
+        var parameters = """
+                {"name": "valid_imported_parameter", "value": "1"}
+                {"value": "2"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.path").value("/parameter/import"))
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
+    @Test
+    void shouldKeepCommittedBatchesWhenLaterRecordInvalidOnImport() throws Exception {
+        // given
+        var parameters = """
+                {"name": "batched_parameter_1", "value": "1"}
+                {"name": "batched_parameter_2", "value": "2"}
+                {"name": "batched_parameter_3", "value": "3"}
+                {"name": "batched_parameter_4"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+        assertThat(countParametersWithName("batched_parameter_1")).isEqualTo(1);
+        assertThat(countParametersWithName("batched_parameter_2")).isEqualTo(1);
+        assertThat(countParametersWithName("batched_parameter_3")).isZero();
+    }
+
+    @Test
+    void shouldInsertExistingNameOnImport() throws Exception {
+        // given
+        parameterRepository.save(ParameterEntity.builder().name("existing_inserted_parameter").value("1").build());
+        var parameters = """
+                {"name": "existing_inserted_parameter", "value": "2"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        assertThat(countParametersWithName("existing_inserted_parameter")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnConflictWhenNameIsSharedOnUpsertImport() throws Exception {
+        // given
+        parameterRepository.save(ParameterEntity.builder().name("shared_imported_parameter").value("1").build());
+        parameterRepository.save(ParameterEntity.builder().name("shared_imported_parameter").value("2").build());
+        var parameters = """
+                {"name": "shared_imported_parameter", "value": "3"}
+                """;
+
+        // when
+        var result = mockMvc.perform(
+                post("/parameter/import")
+                        .param("mode", "UPSERT")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(parameters)
+        );
+
+        // then
+        result
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(HttpStatus.CONFLICT.value()));
+    }
+
+    @Test
+    void shouldExportParameters() throws Exception {
+        // given
+        var id = parameterRepository.save(ParameterEntity.builder().name("exported_parameter").value("1").build()).getId();
+
+        // when
+        var asyncResult = mockMvc.perform(get("/parameter/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        var lines = result.andReturn().getResponse().getContentAsString().lines().toList();
+        assertThat(lines).anySatisfy(line -> {
+            assertThat((int) JsonPath.read(line, "$.id")).isEqualTo(id.intValue());
+            assertThat((String) JsonPath.read(line, "$.name")).isEqualTo("exported_parameter");
+        });
+    }
+
+    private Long countParametersWithName(String name) {
+        return jdbcTemplate.queryForObject("select count(*) from \"parameter\" where \"name\" = ?", Long.class, name);
+    }
 }
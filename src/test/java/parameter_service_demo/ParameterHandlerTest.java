@@ -0,0 +1,132 @@
+package parameter_service_demo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import parameter_service_demo.model.ParameterEntity;
+import parameter_service_demo.repository.ParameterRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ParameterHandlerTest {
+
+    @Autowired
+    private RouterFunction<ServerResponse> parameterRouter;
+
+    @Autowired
+    private HandlerStrategies parameterHandlerStrategies;
+
+    @Autowired
+    private ParameterRepository parameterRepository;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToRouterFunction(parameterRouter)
+                .handlerStrategies(parameterHandlerStrategies)
+                .build();
+    }
+
+    @Test
+    void shouldGetParameter() {
+        // given
+        var parameter = ParameterEntity.builder()
+                .name("reactive_parameter")
+                .value("2")
+                .build();
+        var id = parameterRepository.save(parameter).getId();
+
+        // when
+        var result = webTestClient.get().uri("/parameter/{id}", id).exchange();
+
+        // then
+        result
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id)
+                .jsonPath("$.name").isEqualTo("reactive_parameter")
+                .jsonPath("$.value").isEqualTo("2");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenParameterNotFoundOnGetParameter() {
+        // given
+        var id = Long.MAX_VALUE;
+
+        // when
+        var result = webTestClient.get().uri("/parameter/{id}", id).exchange();
+
+        // then
+        result
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.timestamp").isNotEmpty()
+                .jsonPath("$.status").isEqualTo(HttpStatus.NOT_FOUND.value())
+                .jsonPath("$.error").isEqualTo(HttpStatus.NOT_FOUND.getReasonPhrase())
+                .jsonPath("$.path").isEqualTo("/parameter/" + id)
+                .jsonPath("$.message").isNotEmpty();
+    }
+
+    @Test
+    void shouldReturnBadRequestOnGetParameterWithInvalidId() {
+        // when
+        var result = webTestClient.get().uri("/parameter/abc").exchange();
+
+        // then
+        result
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(HttpStatus.BAD_REQUEST.value())
+                .jsonPath("$.path").isEqualTo("/parameter/abc")
+                .jsonPath("$.message").isNotEmpty();
+    }
+
+    @Test
+    void shouldGetParametersByIds() {
+        // given
+        var first = parameterRepository.save(ParameterEntity.builder().name("first_reactive").value("1").build()).getId();
+        var second = parameterRepository.save(ParameterEntity.builder().name("second_reactive").value("2").build()).getId();
+
+        // when
+        var result = webTestClient.get()
+                .uri(builder -> builder.path("/parameter").queryParam("id", first, second, Long.MAX_VALUE).build())
+                .exchange();
+
+        // then
+        result
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[?(@.id == %d)].name", first).isEqualTo("first_reactive")
+                .jsonPath("$[?(@.id == %d)].name", second).isEqualTo("second_reactive");
+    }
+
+    @Test
+    void shouldGetAllParameters() {
+        // given
+        var id = parameterRepository.save(ParameterEntity.builder().name("listed_reactive").value("1").build()).getId();
+
+        // when
+        var result = webTestClient.get().uri("/parameter").exchange();
+
+        // then
+        result
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$[?(@.id == %d)].name", id).isEqualTo("listed_reactive");
+    }
+}
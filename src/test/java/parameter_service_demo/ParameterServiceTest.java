@@ -0,0 +1,75 @@
+package parameter_service_demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import parameter_service_demo.dto.NewParameterDto;
+import parameter_service_demo.exception.EntityNotFoundException;
+import parameter_service_demo.service.ParameterService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ParameterServiceTest {
+
+    @Autowired
+    private ParameterService parameterService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldCountLoadedReads() {
+        // given
+        var id = parameterService.save(new NewParameterDto("counted_parameter", "1")).getId();
+        var otherId = parameterService.save(new NewParameterDto("other_counted_parameter", "2")).getId();
+        var loadedBefore = loadedReads();
+
+        // when
+        parameterService.loadById(id);
+        parameterService.loadByIds(List.of(id, otherId));
+
+        // then
+        assertThat(loadedReads()).isEqualTo(loadedBefore + 3);
+    }
+
+    @Test
+    void shouldLoadUpdatedParameter() {
+        // given
+        var id = parameterService.save(new NewParameterDto("coalesced_parameter", "1")).getId();
+        parameterService.loadById(id);
+
+        // when
+        parameterService.updateById(id, new NewParameterDto("coalesced_parameter", "2"));
+
+        // then
+        assertThat(parameterService.loadById(id).getValue()).isEqualTo("2");
+        assertThat(parameterService.loadByIds(List.of(id)))
+                .singleElement()
+                .hasFieldOrPropertyWithValue("value", "2");
+    }
+
+    @Test
+    void shouldTreatMissingParameterAlikeInSingleAndMultiGet() {
+        // given
+        var id = parameterService.save(new NewParameterDto("present_parameter", "1")).getId();
+        var missingId = id + 1000;
+
+        // when
+        var parameters = parameterService.loadByIds(List.of(id, missingId));
+
+        // then
+        assertThat(parameters).singleElement().hasFieldOrPropertyWithValue("id", id);
+        assertThatThrownBy(() -> parameterService.loadById(missingId)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private double loadedReads() {
+        return meterRegistry.get("parameter.reads").tag("result", "loaded").counter().count();
+    }
+}
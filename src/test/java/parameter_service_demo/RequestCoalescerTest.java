@@ -0,0 +1,284 @@
+package parameter_service_demo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import parameter_service_demo.coalescing.RequestCoalescer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private Counter loadedKeys;
+
+    private Counter coalescedKeys;
+
+    private RequestCoalescer<Long, String> coalescer;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        var meterRegistry = new SimpleMeterRegistry();
+        loadedKeys = meterRegistry.counter("loaded");
+        coalescedKeys = meterRegistry.counter("coalesced");
+        coalescer = new RequestCoalescer<>(true, Duration.ofSeconds(5), loadedKeys, coalescedKeys);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareLoadBetweenConcurrentCalls() throws Exception {
+        // given
+        var loads = new AtomicInteger();
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(releaseLoad);
+            return "value";
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var follower = joinInFlight(() -> coalescer.load(1L, () -> {
+            loads.incrementAndGet();
+            return "other value";
+        }));
+        releaseLoad.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(loadedKeys.count()).isEqualTo(1);
+        assertThat(coalescedKeys.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareLoadFailure() throws Exception {
+        // given
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            throw new IllegalArgumentException("failed");
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var follower = joinInFlight(() -> coalescer.load(1L, () -> "value"));
+        releaseLoad.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldLoadOnlyKeysNotInFlight() throws Exception {
+        // given
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            return "value 1";
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var loadedByFollower = new CompletableFuture<List<Long>>();
+        var follower = joinInFlight(() -> coalescer.loadAll(List.of(1L, 2L, 3L), ids -> {
+            loadedByFollower.complete(List.copyOf(ids));
+            return ids.stream()
+                    .filter(id -> id != 3L)
+                    .collect(Collectors.toMap(id -> id, id -> "value " + id));
+        }));
+        releaseLoad.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value 1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(Map.entry(1L, "value 1"), Map.entry(2L, "value 2"));
+        assertThat(loadedByFollower.get()).containsExactly(2L, 3L);
+        assertThat(coalescedKeys.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnNullWhenJoiningLoadAllOfMissingKey() throws Exception {
+        // given
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.loadAll(List.of(1L, 2L), ids -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            return Map.of(2L, "value 2");
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var follower = joinInFlight(() -> coalescer.load(1L, () -> "value 1"));
+        releaseLoad.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(Map.entry(2L, "value 2"));
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(coalescedKeys.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeaveOutMissingKeyWhenJoiningLoad() throws Exception {
+        // given
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            return null;
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var follower = joinInFlight(() -> coalescer.loadAll(List.of(1L, 2L), ids ->
+                ids.stream().collect(Collectors.toMap(id -> id, id -> "value " + id))
+        ));
+        releaseLoad.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(Map.entry(2L, "value 2"));
+        assertThat(coalescedKeys.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLoadByItselfAfterWaitTimeout() throws Exception {
+        // given
+        coalescer = new RequestCoalescer<>(true, Duration.ofMillis(50), loadedKeys, coalescedKeys);
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            return "slow value";
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var value = coalescer.load(1L, () -> "fast value");
+        releaseLoad.countDown();
+
+        // then
+        assertThat(value).isEqualTo("fast value");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow value");
+        assertThat(coalescedKeys.count()).isZero();
+    }
+
+    @Test
+    void shouldNotJoinForgottenLoad() throws Exception {
+        // given
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var leader = CompletableFuture.supplyAsync(() -> coalescer.load(1L, () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            return "old value";
+        }), executor);
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        coalescer.forget(1L);
+        var value = coalescer.load(1L, () -> "new value");
+        releaseLoad.countDown();
+
+        // then
+        assertThat(value).isEqualTo("new value");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("old value");
+        assertThat(loadedKeys.count()).isEqualTo(2);
+        assertThat(coalescedKeys.count()).isZero();
+    }
+
+    @Test
+    void shouldLoadAllTimedOutKeysInOneCall() throws Exception {
+        // given
+        coalescer = new RequestCoalescer<>(true, Duration.ofMillis(50), loadedKeys, coalescedKeys);
+        var keys = List.of(1L, 2L, 3L);
+        var loadsStarted = new CountDownLatch(keys.size());
+        var releaseLoads = new CountDownLatch(1);
+        var leaders = keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> coalescer.load(key, () -> {
+                    loadsStarted.countDown();
+                    await(releaseLoads);
+                    return "slow value " + key;
+                }), executor))
+                .toList();
+        assertThat(loadsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var loaderCalls = new CopyOnWriteArrayList<List<Long>>();
+        var values = coalescer.loadAll(keys, ids -> {
+            loaderCalls.add(List.copyOf(ids));
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "fast value " + id));
+        });
+        releaseLoads.countDown();
+
+        // then
+        assertThat(values).containsExactly(
+                Map.entry(1L, "fast value 1"),
+                Map.entry(2L, "fast value 2"),
+                Map.entry(3L, "fast value 3")
+        );
+        assertThat(loaderCalls).containsExactly(keys);
+        for (var leader : leaders) {
+            assertThat(leader.get(5, TimeUnit.SECONDS)).startsWith("slow value");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs the call on another thread and returns once the thread waits for the load in flight.
+     */
+    private <T> CompletableFuture<T> joinInFlight(Supplier<T> call) throws Exception {
+        var thread = new CompletableFuture<Thread>();
+        var result = CompletableFuture.supplyAsync(() -> {
+            thread.complete(Thread.currentThread());
+            return call.get();
+        }, executor);
+        var followerThread = thread.get(5, TimeUnit.SECONDS);
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerThread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(result).as("call joined the load in flight").isNotDone();
+            assertThat(System.nanoTime()).as("call joined the load in flight").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package parameter_service_demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldStoreNameAsVarchar() {
+        // when
+        var dataType = jdbcTemplate.queryForObject(
+                """
+                        select "DATA_TYPE" from "INFORMATION_SCHEMA"."COLUMNS"
+                        where "TABLE_NAME" = 'parameter' and "COLUMN_NAME" = 'name'\
+                        """,
+                String.class
+        );
+
+        // then
+        assertThat(dataType).isEqualTo("CHARACTER VARYING");
+    }
+
+    @Test
+    void shouldHaveIndexOnName() {
+        // when
+        var indexType = jdbcTemplate.queryForObject(
+                """
+                        select "INDEX_TYPE_NAME" from "INFORMATION_SCHEMA"."INDEXES"
+                        where "TABLE_NAME" = 'parameter' and "INDEX_NAME" = 'parameter_name_idx'\
+                        """,
+                String.class
+        );
+
+        // then
+        assertThat(indexType).isEqualTo("INDEX");
+    }
+}